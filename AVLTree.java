@@ -1,5 +1,6 @@
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
 
 public class AVLTree {
     /**
@@ -132,11 +133,28 @@ public class AVLTree {
     /**
      * Inserts a new spell into the AVL tree.
      * Maintains balance according to AVL rules.
+     * A spell whose powerLevel is already in the tree is not inserted.
      * @param spell the spell to insert
+     * @return true if the spell was inserted, false otherwise
      */
-    public void insert(Spell spell) {
+    public boolean insert(Spell spell) {
+        if (containsPower(root, spell.getPowerLevel())) {
+            return false;
+        }
         this.root = insertRec(root, spell);
         size++;
+        return true;
+    }
+    // Checks whether some node already holds the given power level
+    private boolean containsPower(Node node, int powerLevel) {
+        while (node != null) {
+            int currPower = node.spell.getPowerLevel();
+            if (currPower == powerLevel) {
+                return true;
+            }
+            node = currPower > powerLevel ? node.left : node.right;
+        }
+        return false;
     }
     // Recursive insert with balancing
     private Node insertRec(Node node , Spell spell) {
@@ -198,6 +216,27 @@ public class AVLTree {
         }
         getTopKRec(node.left, k, kSpells); // Then visit left
     }
+    /**
+     * Counts the spells in the tree by power level range.
+     * Each key is the lowest power level of a range of the given width.
+     * @param bucketWidth the width of each power level range
+     * @return map from range start to number of spells, ordered by range
+     */
+    public TreeMap<Integer, Integer> getPowerHistogram(int bucketWidth) {
+        TreeMap<Integer, Integer> histogram = new TreeMap<>();
+        getPowerHistogramRec(root, bucketWidth, histogram);
+        return histogram;
+    }
+    // Traverses the tree and counts every spell in its range
+    private void getPowerHistogramRec(Node node, int bucketWidth, TreeMap<Integer, Integer> histogram) {
+        if (node == null) {
+            return;
+        }
+        int start = Math.floorDiv(node.spell.getPowerLevel(), bucketWidth) * bucketWidth;
+        histogram.merge(start, 1, Integer::sum);
+        getPowerHistogramRec(node.left, bucketWidth, histogram);
+        getPowerHistogramRec(node.right, bucketWidth, histogram);
+    }
 }
 
 
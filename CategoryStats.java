@@ -0,0 +1,62 @@
+import java.util.TreeMap;
+
+public class CategoryStats {
+    /**
+     * Represents statistics about one spell category of a HashAVLSpellTable.
+     * Holds the number of spells, the height of the category's AVL tree,
+     * and a histogram of the spells' power levels.
+     */
+    private String category; // spell category
+    private int size; // number of spells in the category
+    private int height; // height of the category's AVL tree
+    private TreeMap<Integer, Integer> powerHistogram; // power range start -> number of spells
+    /**
+     * Constructor for a CategoryStats object.
+     * @param category the spell category
+     * @param size the number of spells in the category
+     * @param height the height of the category's AVL tree
+     * @param powerHistogram number of spells per power level range
+     */
+    public CategoryStats(String category, int size, int height, TreeMap<Integer, Integer> powerHistogram) {
+        this.category = category;
+        this.size = size;
+        this.height = height;
+        this.powerHistogram = powerHistogram;
+    }
+    /**
+     * Getter for the category.
+     * @return the spell category
+     */
+    public String getCategory() {
+        return this.category;
+    }
+    /**
+     * Getter for the number of spells in the category.
+     * @return number of spells
+     */
+    public int getSize() {
+        return this.size;
+    }
+    /**
+     * Getter for the height of the category's AVL tree.
+     * @return tree height
+     */
+    public int getHeight() {
+        return this.height;
+    }
+    /**
+     * Getter for the power level histogram.
+     * @return map from power range start to number of spells, ordered by range
+     */
+    public TreeMap<Integer, Integer> getPowerHistogram() {
+        return this.powerHistogram;
+    }
+    /**
+     * Returns a string representation of the statistics (used in testing).
+     * @return a readable string describing the statistics
+     */
+    @Override
+    public String toString() {
+        return category + " - Spells: " + size + ", Height: " + height + ", Powers: " + powerHistogram;
+    }
+}
@@ -1,3 +1,5 @@
+import java.util.List;
+
 public class DoubleHashTable {
     /**
      * Represents a hash table with double hashing.
@@ -9,6 +11,7 @@ public class DoubleHashTable {
     private int capacity;
     private int size;
     private int steps=0;
+    private SpellNameTrie<SpellSimple> names; // index over spell names for prefix and fuzzy search
 
     /**
      * Constructor for a hash table of a given size
@@ -19,6 +22,7 @@ public class DoubleHashTable {
         this.size = 0;
         this.steps = 0;
         this.table = new SpellSimple[capacity];
+        this.names = new SpellNameTrie<>();
     }
     /**
      * Attempts to insert a new spell into the table based on the hash value.
@@ -36,6 +40,7 @@ public class DoubleHashTable {
             if (table[index] == null) {
                 table[index] = spell;
                 size++;
+                this.names.insert(spell.getName(), spell);
                 return true;
             }
         }
@@ -64,6 +69,25 @@ public class DoubleHashTable {
         return null; // not found in full search
     }
 
+    /**
+     * Returns up to limit spells whose name starts with the given prefix (ignoring case).
+     * @param prefix The prefix to search for
+     * @param limit The maximum number of spells to return
+     * @return list of matching spells in alphabetical order of their names
+     */
+    public List<SpellSimple> prefixSearch(String prefix, int limit) {
+        return this.names.prefixSearch(prefix, limit);
+    }
+    /**
+     * Returns up to limit spells whose name is within maxEdits edit distance of the given name (ignoring case).
+     * @param name The (possibly misspelled) spell name
+     * @param maxEdits The maximum edit distance allowed
+     * @param limit The maximum number of spells to return
+     * @return list of matching spells, closest first
+     */
+    public List<SpellSimple> fuzzySearch(String name, int maxEdits, int limit) {
+        return this.names.fuzzySearch(name, maxEdits, limit);
+    }
     /**
      * Returns the number of spells in the table
      * @return the number of spells in the table
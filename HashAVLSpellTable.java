@@ -1,26 +1,50 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 /**
  * Implements a hash table where each bucket is a linked list of AVL trees.
  * Each AVL tree in the list represents a specific spell category.
  * Used to store and search spells based on their category and power level.
+ * Bulk inserts, statistics and multi-category top-k queries can run in parallel,
+ * one task per bucket, since categories in different buckets never share a tree.
  */
 public class HashAVLSpellTable {
     private LinkedList<AVLTree> buckets[];
     private int tableSize;
     private int numSpells;
+    private SpellNameTrie<Spell> names; // index over spell names for prefix and fuzzy search
+    private ForkJoinPool pool; // runs the parallel operations, owned by the caller
     /**
      * Constructor for the hash table.
      * Initializes each bucket with an empty linked list.
+     * Parallel operations run on the common ForkJoinPool.
      * @param size the number of buckets in the table
      */
     public HashAVLSpellTable(int size) {
+        this(size, ForkJoinPool.commonPool());
+    }
+    /**
+     * Constructor for the hash table that runs its parallel operations on the given pool.
+     * The pool's parallelism sets how many threads are used. The caller owns the pool
+     * and is responsible for shutting it down; the table never does.
+     * @param size the number of buckets in the table
+     * @param pool the pool that runs the parallel operations
+     */
+    public HashAVLSpellTable(int size, ForkJoinPool pool) {
+        this.pool = pool;
         this.tableSize = size;
         this.numSpells = 0;
         this.buckets = new LinkedList[this.tableSize];
         for (int i = 0; i < this.tableSize; i++) {
             this.buckets[i] = new LinkedList<>();
         }
+        this.names = new SpellNameTrie<>();
     }
     /**
      * Hash function for categories.
@@ -38,27 +62,71 @@ public class HashAVLSpellTable {
     /**
      * Adds a spell to the appropriate AVL tree in the hash table.
      * If the tree does not exist for the category, a new tree is created.
-     * No duplicate spell (same name and power) is inserted.
+     * A spell is not inserted if its category already has a spell with the same power level.
      * @param s the spell to add
      */
     public void addSpell(Spell s) {
+        if (addToBucket(s)) {
+            this.numSpells++;
+            this.names.insert(s.getName(), s);
+        }
+    }
+    /**
+     * Adds many spells at once, in parallel.
+     * Spells are partitioned by the bucket of their category and each bucket is filled by one task,
+     * so no two tasks touch the same AVL tree. The result is the same as calling addSpell on each spell.
+     * @param spells the spells to add
+     */
+    public void addSpells(List<Spell> spells) {
+        List<List<Spell>> parts = new ArrayList<>();
+        for (int i = 0; i < this.tableSize; i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Spell s : spells) {
+            parts.get(hash(s.getCategory())).add(s);
+        }
+        List<Callable<List<Spell>>> tasks = new ArrayList<>();
+        for (List<Spell> part : parts) {
+            if (!part.isEmpty()) {
+                tasks.add(() -> {
+                    List<Spell> added = new ArrayList<>();
+                    for (Spell s : part) {
+                        if (addToBucket(s)) {
+                            added.add(s);
+                        }
+                    }
+                    return added;
+                });
+            }
+        }
+        // The counter and the name index are shared, so they are updated here after all tasks finish
+        for (List<Spell> added : runAll(tasks)) {
+            this.numSpells += added.size();
+            for (Spell s : added) {
+                this.names.insert(s.getName(), s);
+            }
+        }
+    }
+    /**
+     * Inserts a spell into the AVL tree of its category, creating the tree if needed.
+     * Only touches the bucket of the spell's category.
+     * @param s the spell to add
+     * @return true if the spell was inserted, false if its power level is already taken in the category
+     */
+    private boolean addToBucket(Spell s) {
         int h = hash(s.getCategory());
         LinkedList<AVLTree> bucket = this.buckets[h];
         // Look for an existing AVL tree with the same category
         for (AVLTree b : bucket) {
             if (b.getCategory().equals(s.getCategory())) {
-                // Only insert if the spell doesn't already exist
-                if (b.search(s.getName(), s.getPowerLevel()) == null) {
-                    b.insert(s);
-                    this.numSpells++;
-                }
-                return;
+                // The tree rejects the spell if it already has one with the same power level
+                return b.insert(s);
             }
         }
         // If no tree for this category yet then create new tree and add it
         AVLTree newB = new AVLTree(s);
         bucket.add(newB);
-        this.numSpells++;
+        return true;
     }
     /**
      * Searches for a specific spell in a given category by name and power level.
@@ -77,6 +145,25 @@ public class HashAVLSpellTable {
         }
         return null;
     }
+    /**
+     * Returns up to limit spells, from all categories, whose name starts with the given prefix (ignoring case).
+     * @param prefix the prefix to search for
+     * @param limit the maximum number of spells to return
+     * @return list of matching spells in alphabetical order of their names
+     */
+    public List<Spell> prefixSearch(String prefix, int limit) {
+        return this.names.prefixSearch(prefix, limit);
+    }
+    /**
+     * Returns up to limit spells, from all categories, whose name is within maxEdits edit distance of the given name.
+     * @param spellName the (possibly misspelled) spell name
+     * @param maxEdits the maximum edit distance allowed
+     * @param limit the maximum number of spells to return
+     * @return list of matching spells, closest first
+     */
+    public List<Spell> fuzzySearch(String spellName, int maxEdits, int limit) {
+        return this.names.fuzzySearch(spellName, maxEdits, limit);
+    }
     /**
      * Returns the total number of spells in the hash table.
      * @return total spell count
@@ -116,4 +203,71 @@ public class HashAVLSpellTable {
         }
         return null;
     }
+    /**
+     * Returns the top-k most powerful spells of several categories, computed in parallel.
+     * Each category is answered as in getTopK(category, k).
+     * @param categories the spell categories
+     * @param k number of top spells to return per category
+     * @return map from category (in the given order) to its top-k spells, or to null if the category does not exist
+     */
+    public Map<String, List<Spell>> getTopK(List<String> categories, int k) {
+        List<Callable<List<Spell>>> tasks = new ArrayList<>();
+        for (String category : categories) {
+            tasks.add(() -> getTopK(category, k));
+        }
+        List<List<Spell>> results = runAll(tasks);
+        Map<String, List<Spell>> topK = new LinkedHashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            topK.put(categories.get(i), results.get(i));
+        }
+        return topK;
+    }
+    /**
+     * Computes statistics for every category in the table, in parallel (one task per bucket).
+     * @param powerBucketWidth the width of each power level range in the histograms
+     * @return list of statistics, one per category, ordered by bucket
+     * @throws IllegalArgumentException if powerBucketWidth is not positive
+     */
+    public List<CategoryStats> getCategoryStats(int powerBucketWidth) {
+        if (powerBucketWidth <= 0) {
+            throw new IllegalArgumentException("powerBucketWidth must be positive: " + powerBucketWidth);
+        }
+        List<Callable<List<CategoryStats>>> tasks = new ArrayList<>();
+        for (LinkedList<AVLTree> bucket : this.buckets) {
+            if (!bucket.isEmpty()) {
+                tasks.add(() -> {
+                    List<CategoryStats> stats = new ArrayList<>();
+                    for (AVLTree b : bucket) {
+                        stats.add(new CategoryStats(b.getCategory(), b.getSize(), b.getTreeHeight(),
+                                b.getPowerHistogram(powerBucketWidth)));
+                    }
+                    return stats;
+                });
+            }
+        }
+        List<CategoryStats> allStats = new ArrayList<>();
+        for (List<CategoryStats> stats : runAll(tasks)) {
+            allStats.addAll(stats);
+        }
+        return allStats;
+    }
+    /**
+     * Runs the tasks on the table's pool and waits for all of them.
+     * @param tasks the tasks to run
+     * @return the results, in the same order as the tasks
+     */
+    private <T> List<T> runAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> f : this.pool.invokeAll(tasks)) {
+                results.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+        return results;
+    }
 }
@@ -0,0 +1,172 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class SpellNameTrie<T> {
+    /**
+     * Implements a trie (prefix tree) over spell names.
+     * Each name maps to the spells (of type T) stored under it, so a search returns
+     * the spells themselves. Names are indexed in lower case so searches ignore letter case.
+     * Supports prefix search and fuzzy search with a bounded edit (Levenshtein) distance.
+     */
+    private Node root; // Root of the trie (represents the empty string)
+    private int size; // Number of spells in the trie
+
+    /**
+     * Inner private class representing a node in the trie.
+     * Each node holds its children by character and the spells whose name ends at it.
+     */
+    private class Node {
+        private TreeMap<Character, Node> children; // Children ordered by character, null if none
+        private List<T> spells; // Spells whose name ends at this node, null if none
+        // Constructs a new empty node
+        private Node() {
+            this.children = null; // Created with the first child, so leaves stay small
+            this.spells = null;
+        }
+    }
+
+    /**
+     * Constructs a new empty trie.
+     */
+    public SpellNameTrie() {
+        this.root = new Node();
+        this.size = 0;
+    }
+    /**
+     * Returns the number of spells stored in the trie.
+     * @return the size of the trie
+     */
+    public int getSize() {
+        return this.size;
+    }
+    /**
+     * Inserts a spell into the trie under the given name.
+     * A spell that is already in the trie is not inserted again.
+     * @param name the spell name to index
+     * @param spell the spell to store under the name
+     */
+    public void insert(String name, T spell) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Node node = this.root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (node.children == null) {
+                node.children = new TreeMap<>();
+            }
+            Node next = node.children.get(c);
+            if (next == null) {
+                next = new Node();
+                node.children.put(c, next);
+            }
+            node = next;
+        }
+        if (node.spells == null) {
+            node.spells = new ArrayList<>();
+        }
+        if (!node.spells.contains(spell)) {
+            node.spells.add(spell);
+            this.size++;
+        }
+    }
+    /**
+     * Returns up to limit spells whose name starts with the given prefix (ignoring case).
+     * Spells are returned in alphabetical order of their names.
+     * @param prefix the prefix to search for
+     * @param limit the maximum number of spells to return
+     * @return list of matching spells, empty if none
+     */
+    public List<T> prefixSearch(String prefix, int limit) {
+        List<T> result = new ArrayList<>();
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Node node = this.root;
+        // Walk down to the node representing the prefix
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children == null ? null : node.children.get(key.charAt(i));
+        }
+        collectRec(node, limit, result);
+        return result;
+    }
+    // Preorder traversal collecting spells until limit is reached
+    private void collectRec(Node node, int limit, List<T> result) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        if (node.spells != null) {
+            for (T spell : node.spells) {
+                if (result.size() < limit) {
+                    result.add(spell);
+                }
+            }
+        }
+        if (node.children != null) {
+            for (Node child : node.children.values()) {
+                collectRec(child, limit, result);
+            }
+        }
+    }
+    /**
+     * Returns up to limit spells whose name is within maxEdits edit distance of the query (ignoring case).
+     * Uses one Levenshtein row per trie node, so branches that cannot match are cut early.
+     * Results are ranked by edit distance, then alphabetically by name.
+     * @param query the (possibly misspelled) name to search for
+     * @param maxEdits the maximum number of insertions, deletions or substitutions
+     * @param limit the maximum number of spells to return
+     * @return list of matching spells, closest first, empty if none
+     */
+    public List<T> fuzzySearch(String query, int maxEdits, int limit) {
+        String key = query.toLowerCase(Locale.ROOT);
+        // matches.get(d) holds the spells found at distance d
+        List<List<T>> matches = new ArrayList<>();
+        for (int d = 0; d <= maxEdits; d++) {
+            matches.add(new ArrayList<>());
+        }
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i <= key.length(); i++) {
+            firstRow[i] = i;
+        }
+        if (firstRow[key.length()] <= maxEdits && this.root.spells != null) {
+            matches.get(firstRow[key.length()]).addAll(this.root.spells);
+        }
+        if (this.root.children != null) {
+            for (Map.Entry<Character, Node> e : this.root.children.entrySet()) {
+                fuzzyRec(e.getValue(), e.getKey(), key, firstRow, maxEdits, matches);
+            }
+        }
+        List<T> result = new ArrayList<>();
+        for (List<T> level : matches) {
+            for (T spell : level) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(spell);
+            }
+        }
+        return result;
+    }
+    // Computes the next Levenshtein row for character c and recurses while the row can still match
+    private void fuzzyRec(Node node, char c, String key, int[] prevRow, int maxEdits, List<List<T>> matches) {
+        int[] row = new int[key.length() + 1];
+        row[0] = prevRow[0] + 1;
+        int rowMin = row[0];
+        for (int i = 1; i <= key.length(); i++) {
+            int insert = row[i - 1] + 1;
+            int delete = prevRow[i] + 1;
+            int replace = prevRow[i - 1] + (key.charAt(i - 1) == c ? 0 : 1);
+            row[i] = Math.min(insert, Math.min(delete, replace));
+            rowMin = Math.min(rowMin, row[i]);
+        }
+        int dist = row[key.length()];
+        if (dist <= maxEdits && node.spells != null) {
+            matches.get(dist).addAll(node.spells);
+        }
+        // Every word below this node is at least rowMin edits away
+        if (rowMin <= maxEdits && node.children != null) {
+            for (Map.Entry<Character, Node> e : node.children.entrySet()) {
+                fuzzyRec(e.getValue(), e.getKey(), key, row, maxEdits, matches);
+            }
+        }
+    }
+}
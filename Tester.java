@@ -1,8 +1,16 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
 public class Tester{
     public static void main(String[] args) {
         testDoubleHashTable();
         testAVLTree();
         testHashAVLSpellTable();
+        testSpellNameTrie();
+        testParallelSpellTable();
     }
     private static void printTestResult(boolean condition, int testNum) {
         System.out.println("Test " + testNum + ": " + (condition ? "true" : "false"));
@@ -84,4 +92,95 @@ public class Tester{
         boolean t15 = table.getNumberSpells("ice") == 1 && table.getNumberSpells() == 3;
         printTestResult(t15, 15);
     }
+    // SpellNameTrie
+    private static void testSpellNameTrie() {
+        System.out.println("\n--- Testing SpellNameTrie ---");
+        DoubleHashTable table = new DoubleHashTable(11);
+        table.put(new SpellSimple("Wingardium Leviosa", "Get up, stand up"));
+        table.put(new SpellSimple("Expecto Patronum", "unicorn"));
+        table.put(new SpellSimple("Expelliarmus", "drop it"));
+        // Test 16: prefix search ignores case and is alphabetical
+        List<SpellSimple> p = table.prefixSearch("exp", 10);
+        boolean t16 = p.size() == 2 && p.get(0).getName().equals("Expecto Patronum")
+                && p.get(1).getName().equals("Expelliarmus");
+        printTestResult(t16, 16);
+        // Test 17: prefix search respects the limit
+        boolean t17 = table.prefixSearch("e", 1).size() == 1 && table.prefixSearch("x", 5).isEmpty();
+        printTestResult(t17, 17);
+        // Test 18: fuzzy search finds a misspelled name
+        List<SpellSimple> f = table.fuzzySearch("wingardium levosa", 2, 5);
+        boolean t18 = f.size() == 1 && f.get(0).getWords().equals("Get up, stand up");
+        printTestResult(t18, 18);
+        // Test 19: fuzzy search ranks closer names first
+        HashAVLSpellTable avlTable = new HashAVLSpellTable(5);
+        avlTable.addSpell(new Spell("frost", "ice", 5, "chill"));
+        avlTable.addSpell(new Spell("frosty", "ice", 7, "chill more"));
+        avlTable.addSpell(new Spell("fire", "fire", 9, "burn"));
+        List<Spell> r = avlTable.fuzzySearch("frosty", 1, 5);
+        boolean t19 = r.size() == 2 && r.get(0).getName().equals("frosty") && r.get(1).getName().equals("frost");
+        printTestResult(t19, 19);
+        // Test 20: names too far away are not returned
+        boolean t20 = avlTable.fuzzySearch("fireball", 2, 5).isEmpty();
+        printTestResult(t20, 20);
+        // Test 21: a spell rejected for its power level is not indexed
+        avlTable.addSpell(new Spell("blizzard", "ice", 5, "brrr"));
+        boolean t21 = avlTable.prefixSearch("bl", 5).isEmpty() && avlTable.getNumberSpells("ice") == 2;
+        printTestResult(t21, 21);
+        // Test 22: the same name in two categories returns both spells
+        avlTable.addSpell(new Spell("frost", "water", 3, "chill water"));
+        List<Spell> same = avlTable.prefixSearch("frost", 5);
+        boolean t22 = same.size() == 3 && avlTable.searchSpell(same.get(1).getCategory(), "frost",
+                same.get(1).getPowerLevel()) == same.get(1);
+        printTestResult(t22, 22);
+        // Test 23: case is ignored the same way in every default locale
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr"));
+        DoubleHashTable trTable = new DoubleHashTable(5);
+        trTable.put(new SpellSimple("Immobulus", "freeze"));
+        boolean t23 = trTable.prefixSearch("imm", 5).size() == 1;
+        Locale.setDefault(defaultLocale);
+        printTestResult(t23, 23);
+    }
+    // HashAVLSpellTable parallel operations
+    private static void testParallelSpellTable() {
+        System.out.println("\n--- Testing HashAVLSpellTable parallel operations ---");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        HashAVLSpellTable table = new HashAVLSpellTable(7, pool);
+        List<Spell> spells = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            spells.add(new Spell("spell" + i, "cat" + (i % 5), i, "say" + i));
+        }
+        spells.add(new Spell("spell0", "cat0", 0, "say0")); // duplicate
+        // Test 24: bulk insert adds every spell once
+        table.addSpells(spells);
+        boolean t24 = table.getNumberSpells() == 20 && table.getNumberSpells("cat3") == 4
+                && table.searchSpell("cat3", "spell8", 8) != null;
+        printTestResult(t24, 24);
+        // Test 25: bulk inserted names are indexed
+        boolean t25 = table.prefixSearch("spell1", 20).size() == 11;
+        printTestResult(t25, 25);
+        // Test 26: statistics for every category
+        List<CategoryStats> stats = table.getCategoryStats(10);
+        boolean t26 = stats.size() == 5;
+        for (CategoryStats cs : stats) {
+            t26 = t26 && cs.getSize() == 4 && cs.getHeight() == 2
+                    && cs.getPowerHistogram().get(0) == 2 && cs.getPowerHistogram().get(10) == 2;
+        }
+        printTestResult(t26, 26);
+        // Test 27: multi-category top-k keeps the request order
+        Map<String, List<Spell>> topK = table.getTopK(List.of("cat4", "cat1", "wind"), 2);
+        List<String> keys = new ArrayList<>(topK.keySet());
+        boolean t27 = keys.equals(List.of("cat4", "cat1", "wind")) && topK.get("wind") == null
+                && topK.get("cat4").get(0).getPowerLevel() == 19 && topK.get("cat1").size() == 2;
+        printTestResult(t27, 27);
+        // Test 28: statistics reject a power range width that is not positive
+        boolean t28 = false;
+        try {
+            table.getCategoryStats(0);
+        } catch (IllegalArgumentException e) {
+            t28 = true;
+        }
+        printTestResult(t28, 28);
+        pool.shutdown();
+    }
 }